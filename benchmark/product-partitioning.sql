@@ -0,0 +1,112 @@
+-- Benchmark du partitionnement de la table products.
+-- ATTENTION : vide la table products (TRUNCATE). A exécuter uniquement sur une base jetable.
+-- Usage : psql -U wladlwe9t_user -d wladlwe9t -v active=100000 -v rows=1000000 -f benchmark/product-partitioning.sql
+-- :active produits dans le catalogue (dont 1 % supprimés en attente d'archivage), le reste des
+-- :rows lignes dans l'archive, réparti sur ses partitions mensuelles. Résultats dans benchmark/README.md.
+
+\set ON_ERROR_STOP on
+
+TRUNCATE products;
+
+-- Partitions mensuelles couvrant l'année d'archive générée ci-dessous
+DO $$
+DECLARE
+    month_start TIMESTAMP;
+BEGIN
+    FOR month_offset IN 0..12 LOOP
+        month_start := date_trunc('month', now() AT TIME ZONE 'UTC') - make_interval(months => month_offset);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF products_archived FOR VALUES FROM (%L) TO (%L)',
+                'products_archived_' || to_char(month_start, 'YYYYMM'),
+                month_start AT TIME ZONE 'UTC', (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+END;
+$$;
+
+SELECT create_products_archived_partitions();
+
+-- Catalogue actif : :active produits répartis sur 200 catégories
+INSERT INTO products (name, description, price, category, available, deleted_at)
+SELECT 'Produit ' || g,
+       'Produit généré pour le benchmark',
+       (g % 1000 + 1)::DECIMAL(10,2),
+       'Categorie ' || (g % 200),
+       TRUE,
+       CASE WHEN g % 100 = 0 THEN now() - make_interval(hours => g % 400) END
+FROM generate_series(1, :active) AS g;
+
+-- Archive : le reste des :rows lignes, supprimées au cours de l'année écoulée
+INSERT INTO products (name, description, price, category, available, archived, deleted_at)
+SELECT 'Produit archivé ' || g,
+       'Produit généré pour le benchmark',
+       (g % 1000 + 1)::DECIMAL(10,2),
+       'Categorie ' || (g % 200),
+       TRUE,
+       TRUE,
+       now() - make_interval(mins => g % 525600)
+FROM generate_series(1, :rows - :active) AS g;
+
+VACUUM ANALYZE products;
+
+SELECT CASE WHEN tableoid = 'products_active'::regclass THEN 'products_active'
+            WHEN tableoid = 'products_archived_default'::regclass THEN 'products_archived_default'
+            ELSE 'products_archived_YYYYMM' END AS partition,
+       count(DISTINCT tableoid) AS partitions,
+       count(*)
+FROM products GROUP BY 1 ORDER BY 1;
+
+-- Requêtes émises par JpaProductRepositoryAdapter et le ProductArchiver,
+-- restriction de l'entité incluse, chronométrées côté serveur.
+CREATE TEMP TABLE benchmark_samples (query TEXT, ms DOUBLE PRECISION);
+
+DO $$
+DECLARE
+    first_id BIGINT;
+    last_id BIGINT;
+    product_id BIGINT;
+    category_name TEXT;
+    started TIMESTAMPTZ;
+BEGIN
+    SELECT min(id), max(id) INTO first_id, last_id FROM products_active;
+
+    FOR i IN 1..500 LOOP
+        product_id := first_id + (random() * (last_id - first_id))::BIGINT;
+        started := clock_timestamp();
+        PERFORM * FROM products p
+        WHERE p.id = product_id AND (p.archived = false AND p.deleted_at IS NULL);
+        INSERT INTO benchmark_samples VALUES ('findById', 1000 * extract(epoch FROM clock_timestamp() - started));
+    END LOOP;
+
+    FOR i IN 1..200 LOOP
+        category_name := 'categorie ' || (random() * 199)::INT;
+        started := clock_timestamp();
+        PERFORM * FROM products p
+        WHERE upper(p.category) = upper(category_name)
+          AND (p.archived = false AND p.deleted_at IS NULL);
+        INSERT INTO benchmark_samples VALUES ('findByCategory', 1000 * extract(epoch FROM clock_timestamp() - started));
+    END LOOP;
+
+    FOR i IN 1..20 LOOP
+        started := clock_timestamp();
+        PERFORM * FROM products p WHERE (p.archived = false AND p.deleted_at IS NULL);
+        INSERT INTO benchmark_samples VALUES ('findAll', 1000 * extract(epoch FROM clock_timestamp() - started));
+    END LOOP;
+
+    FOR i IN 1..200 LOOP
+        started := clock_timestamp();
+        PERFORM id FROM products
+        WHERE archived = FALSE AND deleted_at < now() - make_interval(secs => 604800)
+        ORDER BY deleted_at
+        LIMIT 5000;
+        INSERT INTO benchmark_samples VALUES ('archive batch lookup', 1000 * extract(epoch FROM clock_timestamp() - started));
+    END LOOP;
+END;
+$$;
+
+SELECT query,
+       count(*) AS runs,
+       round(avg(ms)::NUMERIC, 3) AS avg_ms,
+       round(percentile_cont(0.5) WITHIN GROUP (ORDER BY ms)::NUMERIC, 3) AS p50_ms,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY ms)::NUMERIC, 3) AS p95_ms
+FROM benchmark_samples
+GROUP BY query
+ORDER BY query;
@@ -0,0 +1,30 @@
+package io.lacrobate.wladLwe9t.application.config;
+
+import io.lacrobate.wladLwe9t.domain.port.ProductRepository;
+import io.lacrobate.wladLwe9t.domain.service.ProductArchiver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.archiving.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductArchivingConfig {
+
+    private final ProductArchiver productArchiver;
+
+    public ProductArchivingConfig(ProductRepository productRepository,
+                                  @Value("${catalog.archiving.retention}") Duration retention,
+                                  @Value("${catalog.archiving.archive-retention}") Duration archiveRetention,
+                                  @Value("${catalog.archiving.batch-size}") int batchSize) {
+        this.productArchiver = new ProductArchiver(productRepository, retention, archiveRetention, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.archiving.fixed-delay}",
+            initialDelayString = "${catalog.archiving.fixed-delay}")
+    public void archiveDeletedProducts() {
+        productArchiver.archiveDeletedProducts();
+    }
+}
\ No newline at end of file
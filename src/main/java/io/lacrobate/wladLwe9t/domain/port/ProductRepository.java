@@ -2,6 +2,7 @@ package io.lacrobate.wladLwe9t.domain.port;
 
 import io.lacrobate.wladLwe9t.domain.model.Product;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +19,8 @@ public interface ProductRepository {
     void deleteById(Long id);
 
     boolean existsById(Long id);
+
+    int archiveDeletedOlderThan(Duration retention, int batchSize);
+
+    int maintainArchive(Duration archiveRetention);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package io.lacrobate.wladLwe9t.domain.service;
+
+import io.lacrobate.wladLwe9t.domain.port.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+@Slf4j
+public class ProductArchiver {
+
+    private final ProductRepository productRepository;
+    private final Duration retention;
+    private final Duration archiveRetention;
+    private final int batchSize;
+
+    public ProductArchiver(ProductRepository productRepository, Duration retention, Duration archiveRetention,
+                           int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Archiving batch size must be positive");
+        }
+        this.productRepository = productRepository;
+        this.retention = retention;
+        this.archiveRetention = archiveRetention;
+        this.batchSize = batchSize;
+    }
+
+    public int archiveDeletedProducts() {
+        int purged = productRepository.maintainArchive(archiveRetention);
+
+        int total = 0;
+        int archived;
+        do {
+            archived = productRepository.archiveDeletedOlderThan(retention, batchSize);
+            total += archived;
+        } while (archived == batchSize);
+
+        if (total > 0 || purged > 0) {
+            log.info("Archived {} products deleted more than {} ago, dropped {} expired archive partitions",
+                    total, retention, purged);
+        }
+        return total;
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,4 +57,15 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
     public boolean existsById(Long id) {
         return jpaProductRepository.existsById(id);
     }
+
+    @Override
+    public int archiveDeletedOlderThan(Duration retention, int batchSize) {
+        return jpaProductRepository.archiveDeletedOlderThan(retention.toSeconds(), batchSize);
+    }
+
+    @Override
+    public int maintainArchive(Duration archiveRetention) {
+        jpaProductRepository.createArchivedPartitions();
+        return jpaProductRepository.dropArchivedPartitionsOlderThan(archiveRetention.toSeconds());
+    }
 }
\ No newline at end of file
@@ -6,11 +6,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Entity
 @Table(name = "products")
+@SQLDelete(sql = "UPDATE products SET deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND archived = false")
+@SQLRestriction("archived = false AND deleted_at IS NULL")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +41,12 @@ public class ProductEntity {
     @Column(nullable = false)
     private Boolean available = true;
 
+    @Column(nullable = false)
+    private Boolean archived;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
     public static ProductEntity fromDomain(Product product) {
         return ProductEntity.builder()
                 .id(product.id())
@@ -44,6 +55,7 @@ public class ProductEntity {
                 .price(product.price())
                 .category(product.category())
                 .available(product.available())
+                .archived(false)
                 .build();
     }
 
@@ -2,7 +2,11 @@ package io.lacrobate.wladLwe9t.infrastructure.product.repository;
 
 import io.lacrobate.wladLwe9t.infrastructure.product.entity.ProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -10,4 +14,26 @@ import java.util.List;
 public interface JpaProductRepository extends JpaRepository<ProductEntity, Long> {
 
     List<ProductEntity> findByCategoryIgnoreCase(String category);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE products SET archived = TRUE
+            WHERE archived = FALSE AND id IN (
+                SELECT id FROM products
+                WHERE archived = FALSE AND deleted_at < now() - make_interval(secs => :retentionSeconds)
+                ORDER BY deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int archiveDeletedOlderThan(@Param("retentionSeconds") long retentionSeconds, @Param("batchSize") int batchSize);
+
+    @Transactional
+    @Query(value = "SELECT create_products_archived_partitions()", nativeQuery = true)
+    int createArchivedPartitions();
+
+    @Transactional
+    @Query(value = "SELECT drop_products_archived_partitions(now() - make_interval(secs => :retentionSeconds))",
+            nativeQuery = true)
+    int dropArchivedPartitionsOlderThan(@Param("retentionSeconds") long retentionSeconds);
 }
\ No newline at end of file
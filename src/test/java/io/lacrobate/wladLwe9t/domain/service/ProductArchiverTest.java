@@ -0,0 +1,66 @@
+package io.lacrobate.wladLwe9t.domain.service;
+
+import io.lacrobate.wladLwe9t.domain.port.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductArchiverTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final Duration ARCHIVE_RETENTION = Duration.ofDays(365);
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    @Test
+    void shouldArchiveBatchesUntilOneIsNotFull() {
+        when(productRepository.archiveDeletedOlderThan(RETENTION, 3)).thenReturn(3, 3, 1, 3);
+        ProductArchiver archiver = new ProductArchiver(productRepository, RETENTION, ARCHIVE_RETENTION, 3);
+
+        int archived = archiver.archiveDeletedProducts();
+
+        assertEquals(7, archived);
+        verify(productRepository, times(3)).archiveDeletedOlderThan(RETENTION, 3);
+    }
+
+    @Test
+    void shouldStopAfterFirstBatchWhenNothingToArchive() {
+        when(productRepository.archiveDeletedOlderThan(RETENTION, 3)).thenReturn(0, 3);
+        ProductArchiver archiver = new ProductArchiver(productRepository, RETENTION, ARCHIVE_RETENTION, 3);
+
+        int archived = archiver.archiveDeletedProducts();
+
+        assertEquals(0, archived);
+        verify(productRepository, times(1)).archiveDeletedOlderThan(RETENTION, 3);
+    }
+
+    @Test
+    void shouldMaintainArchiveOnceBeforeArchiving() {
+        when(productRepository.archiveDeletedOlderThan(RETENTION, 3)).thenReturn(3, 0);
+        ProductArchiver archiver = new ProductArchiver(productRepository, RETENTION, ARCHIVE_RETENTION, 3);
+
+        archiver.archiveDeletedProducts();
+
+        InOrder order = inOrder(productRepository);
+        order.verify(productRepository).maintainArchive(ARCHIVE_RETENTION);
+        order.verify(productRepository, times(2)).archiveDeletedOlderThan(RETENTION, 3);
+        verify(productRepository, times(1)).maintainArchive(ARCHIVE_RETENTION);
+    }
+
+    @Test
+    void shouldRejectNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductArchiver(productRepository, RETENTION, ARCHIVE_RETENTION, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductArchiver(productRepository, RETENTION, ARCHIVE_RETENTION, -1));
+    }
+}
\ No newline at end of file
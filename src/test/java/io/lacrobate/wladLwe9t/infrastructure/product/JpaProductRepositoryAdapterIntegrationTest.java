@@ -0,0 +1,163 @@
+package io.lacrobate.wladLwe9t.infrastructure.product;
+
+import io.lacrobate.wladLwe9t.domain.model.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class JpaProductRepositoryAdapterIntegrationTest {
+
+    private static final String CATEGORY = "Archivage-Test";
+    private static final Duration ARCHIVE_RETENTION = Duration.ofDays(365);
+
+    @Autowired
+    private JpaProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void parkOtherPendingDeletions() {
+        // Deletions left by other tests would be archived too; the test transaction rolls this back
+        jdbcTemplate.update("UPDATE products SET deleted_at = now() WHERE archived = FALSE AND deleted_at IS NOT NULL");
+    }
+
+    @Test
+    void shouldKeepSoftDeletedProductInActivePartition() {
+        Long id = createProduct("Produit supprimé");
+
+        deleteProduct(id);
+
+        Map<String, Object> row = findRow(id);
+        assertEquals("products_active", row.get("partition"));
+        assertEquals(false, row.get("archived"));
+        assertNotNull(row.get("deleted_at"));
+        assertTrue(productRepository.findById(id).isEmpty());
+        assertFalse(productRepository.existsById(id));
+        assertTrue(productRepository.findByCategory(CATEGORY).isEmpty());
+    }
+
+    @Test
+    void shouldArchiveOnlyProductsDeletedBeforeRetention() {
+        Long expired = createProduct("Produit expiré");
+        Long recent = createProduct("Produit récent");
+        Long live = createProduct("Produit actif");
+        deleteProduct(expired);
+        deleteProduct(recent);
+        backdateDeletion(expired, "2 hours");
+
+        int archived = productRepository.archiveDeletedOlderThan(Duration.ofHours(1), 100);
+
+        assertEquals(1, archived);
+        Map<String, Object> expiredRow = findRow(expired);
+        assertEquals(true, expiredRow.get("archived"));
+        assertTrue(expiredRow.get("partition").toString().startsWith("products_archived_"));
+        assertEquals("products_active", findRow(recent).get("partition"));
+        assertEquals("products_active", findRow(live).get("partition"));
+        assertNull(findRow(live).get("deleted_at"));
+    }
+
+    @Test
+    void shouldArchiveOldestDeletionsFirstWithinBatchSize() {
+        Long oldest = createProduct("Produit 1");
+        Long older = createProduct("Produit 2");
+        Long old = createProduct("Produit 3");
+        for (Long id : new Long[]{oldest, older, old}) {
+            deleteProduct(id);
+        }
+        backdateDeletion(oldest, "4 hours");
+        backdateDeletion(older, "3 hours");
+        backdateDeletion(old, "2 hours");
+
+        assertEquals(2, productRepository.archiveDeletedOlderThan(Duration.ofHours(1), 2));
+        assertEquals(true, findRow(oldest).get("archived"));
+        assertEquals(true, findRow(older).get("archived"));
+        assertEquals(false, findRow(old).get("archived"));
+
+        assertEquals(1, productRepository.archiveDeletedOlderThan(Duration.ofHours(1), 2));
+        assertEquals(0, productRepository.archiveDeletedOlderThan(Duration.ofHours(1), 2));
+    }
+
+    @Test
+    void shouldRecreateMissingPartitionForNextMonth() {
+        String nextMonthPartition = jdbcTemplate.queryForObject(
+                "SELECT 'products_archived_' || to_char(now() AT TIME ZONE 'UTC' + INTERVAL '1 month', 'YYYYMM')",
+                String.class);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + nextMonthPartition);
+
+        productRepository.maintainArchive(ARCHIVE_RETENTION);
+
+        assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, nextMonthPartition));
+    }
+
+    @Test
+    void shouldArchiveOldDeletionIntoItsMonthlyPartition() {
+        Long id = createProduct("Produit supprimé il y a longtemps");
+        deleteProduct(id);
+        backdateDeletion(id, "70 days");
+
+        productRepository.maintainArchive(ARCHIVE_RETENTION);
+        productRepository.archiveDeletedOlderThan(Duration.ofDays(7), 100);
+
+        String expectedPartition = jdbcTemplate.queryForObject(
+                "SELECT 'products_archived_' || to_char(deleted_at AT TIME ZONE 'UTC', 'YYYYMM') FROM products WHERE id = ?",
+                String.class, id);
+        assertEquals(expectedPartition, findRow(id).get("partition"));
+    }
+
+    @Test
+    void shouldDropArchivesPastRetention() {
+        jdbcTemplate.execute("""
+                CREATE TABLE products_archived_200001 PARTITION OF products_archived
+                FOR VALUES FROM ('2000-01-01 00:00:00+00') TO ('2000-02-01 00:00:00+00')""");
+        jdbcTemplate.update("""
+                INSERT INTO products (name, price, category, archived, deleted_at)
+                VALUES ('Produit retiré', 10, ?, TRUE, '2000-01-15 00:00:00+00'),
+                       ('Produit hors partition', 10, ?, TRUE, '2000-03-15 00:00:00+00')""", CATEGORY, CATEGORY);
+
+        int dropped = productRepository.maintainArchive(ARCHIVE_RETENTION);
+
+        assertEquals(1, dropped);
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('products_archived_200001')::text", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM products WHERE category = ?", Integer.class, CATEGORY));
+    }
+
+    private Long createProduct(String name) {
+        return productRepository.save(Product.create(name, null, new BigDecimal("10.00"), CATEGORY)).id();
+    }
+
+    private void deleteProduct(Long id) {
+        productRepository.deleteById(id);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void backdateDeletion(Long id, String age) {
+        jdbcTemplate.update("UPDATE products SET deleted_at = now() - CAST(? AS INTERVAL) WHERE id = ?", age, id);
+    }
+
+    private Map<String, Object> findRow(Long id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT tableoid::regclass::text AS partition, archived, deleted_at FROM products WHERE id = ?", id);
+    }
+}
\ No newline at end of file